@@ -27,6 +27,16 @@ import java.lang.annotation.Repeatable;
 /**
  *  Annotation used to define a Connector Connection Factory resource to be 
  *  registered in JNDI.
+ *
+ *  The values of the connection pool attributes added in version 3.0 are 
+ *  validated when the application that defines the connection factory 
+ *  resource is deployed. For the <code>maxWaitTime</code>, 
+ *  <code>idleTimeout</code>, <code>maxLifetime</code> and 
+ *  <code>validationInterval</code> attributes, a value of <code>-1</code> 
+ *  indicates that the vendor specific default applies and any other 
+ *  negative value causes the deployment to fail. The 
+ *  <code>minPoolSize</code> and <code>maxPoolSize</code> attributes are 
+ *  not subject to this validation.
  *  
  *  Once defined, a resource may be referenced by a component using the
  *  <code>lookup</code> element of the <code>Resource</code> annotation.
@@ -97,6 +107,88 @@ public @interface ConnectionFactoryDefinition {
      *  connection pool
      */
     int minPoolSize() default -1;
+
+    /**
+     *  The maximum time, in milliseconds, that a connection request waits
+     *  for a connection to become available when the connection pool that
+     *  backs this connection factory resource is exhausted. A value of 
+     *  <code>0</code> indicates that a connection request does not wait. 
+     *  The default for this attribute is vendor specific.
+     * @return The maximum time, in milliseconds, a connection request waits
+     *  for a connection
+     * @since 3.0
+     */
+    int maxWaitTime() default -1;
+
+    /**
+     *  The time, in seconds, after which an idle connection may be removed
+     *  from the connection pool that backs this connection factory resource,
+     *  subject to <code>minPoolSize</code>. A value of <code>0</code> 
+     *  indicates that idle connections are not removed. The default for 
+     *  this attribute is vendor specific.
+     * @return The time, in seconds, after which an idle connection may be 
+     *  removed
+     * @since 3.0
+     */
+    int idleTimeout() default -1;
+
+    /**
+     *  The maximum time, in seconds, that a connection is kept in the 
+     *  connection pool that backs this connection factory resource, 
+     *  measured from its creation. A connection that exceeds this time is 
+     *  destroyed once it is no longer in use. A value of <code>0</code> 
+     *  indicates that the lifetime of a connection is not limited. The 
+     *  default for this attribute is vendor specific.
+     * @return The maximum lifetime, in seconds, of a connection
+     * @since 3.0
+     */
+    int maxLifetime() default -1;
+
+    /**
+     *  The interval, in seconds, at which idle connections in the connection
+     *  pool that backs this connection factory resource are validated. A 
+     *  value of <code>0</code> indicates that idle connections are not 
+     *  validated in the background. The default for this attribute is 
+     *  vendor specific.
+     * @return The interval, in seconds, at which idle connections are 
+     *  validated
+     * @since 3.0
+     */
+    int validationInterval() default -1;
+
+    /**
+     *  Indicates whether the connection pool that backs this connection 
+     *  factory resource is filled up to <code>minPoolSize</code> when the 
+     *  connection factory resource is created, rather than on first use.
+     *  The default, <code>PoolSetting.Default</code>, indicates that the 
+     *  vendor specific default applies.
+     * @return whether the connection pool is filled when it is created
+     * @since 3.0
+     */
+    PoolSetting prefill() default PoolSetting.Default;
+
+    /**
+     *  Indicates whether connection requests that wait for a connection to
+     *  become available are served in the order in which they were made.
+     *  The default, <code>PoolSetting.Default</code>, indicates that the 
+     *  vendor specific default applies.
+     * @return whether waiting connection requests are served in order
+     * @since 3.0
+     */
+    PoolSetting fair() default PoolSetting.Default;
+
+    /**
+     *  The partitioning of the connection pool that backs this connection 
+     *  factory resource. A partitioned connection pool keeps idle 
+     *  connections in several partitions, to reduce contention between 
+     *  concurrent connection requests. The <code>minPoolSize</code> and 
+     *  <code>maxPoolSize</code> attributes apply to the connection pool as
+     *  a whole. The default, <code>PoolPartitioning.Default</code>, 
+     *  indicates that the vendor specific default applies.
+     * @return The partitioning of the connection pool
+     * @since 3.0
+     */
+    PoolPartitioning poolPartitioning() default PoolPartitioning.Default;
     
     /**
      *  Properties of the Connection Factory.  These properties may be
@@ -110,4 +202,50 @@ public @interface ConnectionFactoryDefinition {
      * @return properties
      */
     String[] properties() default {};
+
+    /**
+     *  An enumerated type that represents whether a connection pool 
+     *  behavior is enabled.
+     * @since 3.0
+     */
+    public enum PoolSetting {
+        /**
+         * The vendor specific default applies.
+         */
+        Default,
+        /**
+         * The behavior is enabled.
+         */
+        Enabled,
+        /**
+         * The behavior is disabled.
+         */
+        Disabled
+    }
+
+    /**
+     *  An enumerated type that represents the partitioning of a connection
+     *  pool.
+     * @since 3.0
+     */
+    public enum PoolPartitioning {
+        /**
+         * The vendor specific default applies.
+         */
+        Default,
+        /**
+         * The connection pool is not partitioned.
+         */
+        None,
+        /**
+         * The connection pool keeps a partition of idle connections per
+         * thread.
+         */
+        PerThread,
+        /**
+         * The connection pool keeps a partition of idle connections per
+         * processor core.
+         */
+        PerCore
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource;
+
+/**
+ * The <code>ConnectionPoolStatistics</code> interface provides read access
+ * to the statistics of the connection pool that an application server
+ * maintains for a connection factory, including connection factories
+ * defined through <code>ConnectionFactoryDefinition</code>.
+ *
+ * <p>An application server provides the implementation of this interface.
+ * All methods return primitive values and must not allocate, so that the
+ * statistics may be sampled frequently without adding load to the
+ * application server. Counts are cumulative from the time the connection
+ * pool was created; rates may be computed by sampling a count at two
+ * points in time.
+ *
+ * <p>The values returned by the methods of this interface are sampled
+ * independently of each other and are not required to be consistent
+ * with each other.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.MonitorableConnectionManager
+ * @see jakarta.resource.cci.MonitorableConnectionFactory
+ */
+public interface ConnectionPoolStatistics {
+
+    /**
+     * Returns the number of <code>ManagedConnection</code> instances that
+     * are currently in use.
+     *
+     * @return the number of active connections.
+     */
+    int getActiveCount();
+
+    /**
+     * Returns the number of <code>ManagedConnection</code> instances that
+     * are currently idle in the connection pool.
+     *
+     * @return the number of idle connections.
+     */
+    int getIdleCount();
+
+    /**
+     * Returns the number of connection requests that are currently waiting
+     * for a <code>ManagedConnection</code> to become available.
+     *
+     * @return the number of pending connection requests.
+     */
+    int getPendingCount();
+
+    /**
+     * Returns the number of connection requests that have been satisfied.
+     *
+     * @return the number of connection allocations.
+     */
+    long getAllocationCount();
+
+    /**
+     * Returns the number of connection requests that failed because no
+     * <code>ManagedConnection</code> became available in time.
+     *
+     * @return the number of connection allocation timeouts.
+     */
+    long getAllocationTimeoutCount();
+
+    /**
+     * Returns the number of <code>ManagedConnection</code> instances that
+     * have been created.
+     *
+     * @return the number of created connections.
+     */
+    long getCreatedCount();
+
+    /**
+     * Returns the number of <code>ManagedConnection</code> instances that
+     * have been destroyed.
+     *
+     * @return the number of destroyed connections.
+     */
+    long getDestroyedCount();
+
+    /**
+     * Returns the number of times that matching against the idle
+     * <code>ManagedConnection</code> instances did not find an acceptable
+     * connection for a connection request.
+     *
+     * @return the number of match failures.
+     */
+    long getMatchFailureCount();
+
+    /**
+     * Returns the number of buckets of the wait time histogram. The
+     * histogram records the time connection requests spent in
+     * <code>ConnectionManager.allocateConnection</code>.
+     *
+     * @return the number of buckets, or <code>0</code> if the application
+     * server does not record a wait time histogram.
+     */
+    int getWaitTimeBucketCount();
+
+    /**
+     * Returns the inclusive upper bound of the specified bucket of the
+     * wait time histogram. Bucket upper bounds are in ascending order; the
+     * last bucket has an upper bound of <code>Long.MAX_VALUE</code>.
+     *
+     * @param bucket the index of the bucket, from <code>0</code> to
+     * <code>getWaitTimeBucketCount() - 1</code>.
+     *
+     * @return the upper bound of the bucket, in nanoseconds.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    long getWaitTimeBucketUpperBound(int bucket);
+
+    /**
+     * Returns the number of connection requests recorded in the specified
+     * bucket of the wait time histogram.
+     *
+     * @param bucket the index of the bucket, from <code>0</code> to
+     * <code>getWaitTimeBucketCount() - 1</code>.
+     *
+     * @return the number of connection requests whose wait time was
+     * greater than the upper bound of the previous bucket and less than
+     * or equal to the upper bound of this bucket.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    long getWaitTimeBucketValue(int bucket);
+
+    /**
+     * Returns the longest time a connection request has spent in
+     * <code>ConnectionManager.allocateConnection</code>.
+     *
+     * @return the maximum wait time, in nanoseconds.
+     */
+    long getMaxWaitTime();
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.cci;
+
+import java.util.concurrent.CompletionStage;
+
+/** <code>AsyncConnectionFactory</code> may be optionally implemented by
+ *  a <code>ConnectionFactory</code> that supports getting a connection to
+ *  an EIS instance without blocking the calling thread.
+ *
+ *  <p>A resource adapter typically implements this interface by delegating
+ *  to a <code>ConnectionManager</code> that implements
+ *  <code>jakarta.resource.spi.AsyncConnectionManager</code>. If the
+ *  <code>ConnectionManager</code> the connection factory was created with
+ *  does not implement that interface, for example the default 
+ *  <code>ConnectionManager</code> of the resource adapter in the 
+ *  non-managed scenario, the connection factory gets the connection 
+ *  through <code>ConnectionManager.allocateConnection</code> on the 
+ *  calling thread and returns an already completed 
+ *  <code>CompletionStage</code>. The call then blocks as the 
+ *  corresponding <code>getConnection</code> variant does.
+ *
+ *  <p>If the returned <code>CompletionStage</code> has already been
+ *  completed by the caller, for example because it was cancelled or timed
+ *  out, when the connection becomes available, the connection is closed
+ *  and is not handed out.
+ *
+ *  <p>The returned <code>CompletionStage</code> is completed exceptionally
+ *  with a <code>ResourceException</code> in the error cases described
+ *  for the corresponding <code>ConnectionFactory.getConnection</code>
+ *  variant.
+ *
+ *  @since   3.0
+ *  @see     jakarta.resource.cci.ConnectionFactory
+ *  @see     jakarta.resource.spi.AsyncConnectionManager
+ **/
+public interface AsyncConnectionFactory {
+
+  /** Gets a connection to an EIS instance without blocking the calling
+   *  thread. This variant should be used when a component wants the
+   *  container to manage EIS sign-on.
+   *
+   *  @return   <code>CompletionStage</code> that is completed with the
+   *            Connection instance
+   *  @see      jakarta.resource.cci.ConnectionFactory#getConnection()
+  **/
+  public
+  CompletionStage<Connection> getConnectionAsync();
+
+  /** Gets a connection to an EIS instance without blocking the calling
+   *  thread. A component should use this variant if it needs to pass
+   *  any resource adapter specific security information and connection
+   *  parameters.
+   *
+   *  @param  properties          Connection parameters and security
+   *                              information specified as
+   *                              ConnectionSpec instance
+   *  @return <code>CompletionStage</code> that is completed with the
+   *          Connection instance
+   *  @see    jakarta.resource.cci.ConnectionFactory#getConnection(ConnectionSpec)
+  **/
+  public
+  CompletionStage<Connection> getConnectionAsync(ConnectionSpec properties);
+}
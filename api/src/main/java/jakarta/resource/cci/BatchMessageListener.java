@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.cci;
+
+import java.util.List;
+import jakarta.resource.ResourceException;
+
+/** 
+ * This serves as a request-response message listener type that message
+ * endpoints (message-driven beans) may implement to receive a batch of
+ * messages in a single call. This allows an EIS to deliver several
+ * messages to an endpoint within a single transaction.
+ *
+ *  @since   3.0
+ *  @see     jakarta.resource.cci.MessageListener
+ *  @see     jakarta.resource.spi.endpoint.BatchMessageEndpoint
+ */    
+public interface BatchMessageListener {
+
+    /**
+     * This method allows an EIS to call a message endpoint with a batch of
+     * messages using a request-response style communication.
+     *
+     * @param inputData a list of <code>Record</code> instances.
+     *
+     * @return a list of the same size as <code>inputData</code>, containing
+     * at each position a <code>Record</code> instance or null as the
+     * response to the <code>Record</code> at the same position in
+     * <code>inputData</code>.
+     *
+     * @throws ResourceException indicates an exceptional condition. The
+     * resource adapter must consider none of the messages of the batch
+     * as processed.
+     */
+    List<Record> onMessages(List<Record> inputData) throws ResourceException;
+}
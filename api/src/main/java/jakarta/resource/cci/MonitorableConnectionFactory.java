@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.cci;
+
+import jakarta.resource.ConnectionPoolStatistics;
+
+/** <code>MonitorableConnectionFactory</code> may be optionally implemented
+ *  by a connection factory, either a <code>ConnectionFactory</code> or an
+ *  EIS-specific connection factory, to give application components and
+ *  tooling access to the statistics of the connection pool that backs
+ *  the connection factory.
+ *
+ *  <p>A resource adapter whose connection factory was created with a
+ *  <code>ConnectionManager</code> that implements
+ *  <code>jakarta.resource.spi.MonitorableConnectionManager</code> should
+ *  implement this interface by delegating to that
+ *  <code>ConnectionManager</code>.
+ *
+ *  @since   3.0
+ *  @see     jakarta.resource.ConnectionPoolStatistics
+ *  @see     jakarta.resource.spi.MonitorableConnectionManager
+ **/
+public interface MonitorableConnectionFactory {
+
+  /** Gets the statistics of the connection pool that backs this 
+   *  connection factory.
+   *
+   *  @return   the connection pool statistics, or <code>null</code> if
+   *            the <code>ConnectionManager</code> this connection factory
+   *            was created with does not provide connection pool
+   *            statistics, for example in the non-managed scenario.
+  **/
+  public
+  ConnectionPoolStatistics getConnectionPoolStatistics();
+}
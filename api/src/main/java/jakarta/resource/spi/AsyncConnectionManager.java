@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>ConnectionManager</code> implementation. An implementation of
+ * this interface supports non-blocking allocation of connection handles.
+ *
+ * <p>The resource adapter's connection factory may use this interface,
+ * if implemented by the <code>ConnectionManager</code> it was created with,
+ * to pass a connection request to the application server without blocking
+ * the calling thread while the connection pool is exhausted or while a new
+ * <code>ManagedConnection</code> is being created.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.ConnectionManager
+ */
+public interface AsyncConnectionManager {
+
+    /**
+     * This method is called by the resource adapter's connection factory
+     * instance in order to pass a connection request to the application
+     * server without blocking the calling thread.
+     *
+     * <p>The returned <code>CompletionStage</code> is completed with the
+     * connection handle once a <code>ManagedConnection</code> has been
+     * matched or created and associated with the request. The application
+     * server provides the same quality of services as for
+     * {@link ConnectionManager#allocateConnection}.
+     *
+     * <p>The application server captures the transaction context and the
+     * security context of the calling thread when this method is called.
+     * Transaction enlistment, connection sharing and the security
+     * information used for matching or creating the
+     * <code>ManagedConnection</code> are decided based on the captured
+     * contexts, even if the returned <code>CompletionStage</code> is
+     * completed on another thread.
+     *
+     * <p>If the returned <code>CompletionStage</code> has already been
+     * completed by the caller, for example because the
+     * <code>CompletableFuture</code> obtained through
+     * <code>CompletionStage.toCompletableFuture()</code> was cancelled or
+     * timed out, the application server does not hand out a connection
+     * handle for this request. A connection handle that has already been
+     * created for the request is closed by the application server, as if
+     * the application component had closed it, and the
+     * <code>ManagedConnection</code> is returned to the connection pool.
+     *
+     * <p>If the connection request cannot be satisfied, the returned
+     * <code>CompletionStage</code> is completed exceptionally with one of
+     * the exceptions that <code>ConnectionManager.allocateConnection</code>
+     * may throw, for example a <code>ResourceAllocationException</code>
+     * when no connection becomes available within the configured wait time.
+     *
+     * @param mcf used by application server to delegate connection
+     * matching/creation
+     *
+     * @param cxRequestInfo connection request information
+     *
+     * @return a <code>CompletionStage</code> that is completed with a
+     * connection handle with an EIS specific connection interface.
+     */
+    CompletionStage<Object> allocateConnectionAsync(
+            ManagedConnectionFactory mcf,
+            ConnectionRequestInfo cxRequestInfo);
+}
@@ -1,5 +1,6 @@
 /*
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +18,7 @@
 package jakarta.resource.spi;
 
 import java.util.Timer;
+import jakarta.resource.spi.work.HintsContext;
 import jakarta.resource.spi.work.WorkManager;
 import jakarta.resource.spi.work.WorkContext;
 import jakarta.transaction.TransactionSynchronizationRegistry;
@@ -91,6 +93,37 @@ public interface BootstrapContext {
     boolean isContextSupported(
             Class<? extends WorkContext> workContextClass);
 
+    /**
+     * A resource adapter can check an application server's support 
+     * for a particular hint name of the {@link HintsContext HintsContext} 
+     * through this method. This mechanism enables a resource adapter 
+     * developer to adapt the way it submits Work instances, for example the
+     * number of concurrent Work instances, based on the support provided by
+     * the application server.
+     *
+     * This method must be idempotent, that is all calls to this method by a
+     * resource adapter for a particular hint name must return the same 
+     * boolean value throughout the lifecycle of that resource adapter 
+     * instance.
+     *
+     * <p>The default implementation returns false for all hint names, so
+     * that application server implementations written against earlier 
+     * versions of this interface continue to work.
+     * 
+     * @param hintName The hint name that is tested for support by the 
+     * application server.
+     *     
+     * @return true if the <code>WorkManager</code> provided by the 
+     * application server honours the <code>hintName</code>. false if the 
+     * <code>hintName</code> is unsupported or unknown to the application 
+     * server.
+     *
+     * @since 3.0
+     */
+    default boolean isHintSupported(String hintName) {
+        return false;
+    }
+
 
     /**
      * Provides a handle to a <code>TransactionSynchronization</code> instance. The
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi;
+
+import java.util.List;
+import javax.security.auth.Subject;
+import jakarta.resource.ResourceException;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>ManagedConnectionFactory</code> implementation. An implementation
+ * of this interface supports the creation of several physical connections
+ * to the underlying EIS resource manager in a single call.
+ *
+ * <p>This may be used by the application server to fill its connection
+ * pool, for example during pool warm-up or when the pool is refilled to
+ * its minimum size. A resource adapter may implement this method by
+ * pipelining or parallelizing the connection handshakes with the EIS
+ * instead of performing them one after another.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.ManagedConnectionFactory#createManagedConnection
+ */
+public interface BulkManagedConnectionFactory {
+
+    /**
+     * Creates up to <code>count</code> new physical connections to the
+     * underlying EIS resource manager.
+     *
+     * <p>Each returned <code>ManagedConnection</code> must be equivalent to
+     * one created by <code>ManagedConnectionFactory.createManagedConnection</code>
+     * with the same <code>Subject</code> and
+     * <code>ConnectionRequestInfo</code>.
+     *
+     * <p>If some of the connections cannot be created, the resource adapter
+     * returns the connections that were created successfully. An exception
+     * is thrown only if no connection could be created.
+     *
+     * @param count the number of connections requested; must be greater
+     * than zero.
+     *
+     * @param subject caller's security information
+     *
+     * @param cxRequestInfo additional resource adapter specific connection
+     * request information
+     *
+     * @return a list of at least one and at most <code>count</code>
+     * <code>ManagedConnection</code> instances.
+     *
+     * @throws ResourceException generic exception
+     * @throws SecurityException security related error
+     * @throws ResourceAllocationException failed to allocate system
+     * resources for connection request
+     * @throws ResourceAdapterInternalException resource adapter related
+     * error condition
+     * @throws EISSystemException internal error condition in EIS instance
+     */
+    List<ManagedConnection> createManagedConnections(int count,
+            Subject subject, ConnectionRequestInfo cxRequestInfo)
+	throws ResourceException;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi;
+
+/**
+ * The <code>ConnectionValidationListener</code> interface provides a
+ * callback mechanism to enable an application server to receive the
+ * outcome of validating individual <code>ManagedConnection</code> objects.
+ *
+ * <p>An application server implements this interface and passes an
+ * instance of it to
+ * <code>IncrementalValidatingManagedConnectionFactory.validateConnections</code>.
+ * The application server may remove an invalid
+ * <code>ManagedConnection</code> from its connection pool as soon as it
+ * is notified, without waiting for the remaining connections to be
+ * validated.
+ *
+ * <p>A resource adapter may validate connections concurrently. An
+ * implementation of this interface must therefore be safe for use by
+ * multiple threads.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.IncrementalValidatingManagedConnectionFactory
+ */
+public interface ConnectionValidationListener
+                 extends java.util.EventListener {
+
+    /**
+     * Notifies the outcome of validating a <code>ManagedConnection</code>.
+     * This method is called exactly once for each
+     * <code>ManagedConnection</code> that the resource adapter validated.
+     *
+     * @param mc the <code>ManagedConnection</code> that was validated.
+     *
+     * @param valid <code>true</code> if the <code>ManagedConnection</code>
+     * is valid, <code>false</code> otherwise.
+     */
+    void connectionValidated(ManagedConnection mc, boolean valid);
+}
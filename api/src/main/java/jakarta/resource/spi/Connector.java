@@ -1,5 +1,6 @@
 /*
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -147,4 +148,36 @@ public @interface Connector {
      * @return list of class names that implement the work context interface
      */
     Class<? extends WorkContext>[] requiredWorkContexts() default {};
+
+    /**
+     * Specifies whether the application server may execute the
+     * {@link jakarta.resource.spi.work.Work Work} instances submitted by the
+     * resource adapter on a work-stealing thread pool that is shared with
+     * other resource adapters, instead of a thread pool dedicated to this
+     * resource adapter. A resource adapter that enables this must not rely
+     * on state associated with the threads that execute its Work instances.
+     * @return true if Work instances may be executed on a shared thread pool
+     * @since 3.0
+     */
+    boolean sharedWorkExecution() default false;
+
+    /**
+     * Specifies the share, in percent, of the threads of a shared thread
+     * pool that the application server must make available to the resource
+     * adapter while the pool is saturated. The resource adapter may use
+     * more threads while other resource adapters leave the pool idle. The
+     * value is a default provided by the resource adapter provider, which
+     * the deployer may override through vendor specific deployment 
+     * configuration. A value of <code>-1</code> indicates that the vendor 
+     * specific default applies. A value below <code>-1</code> or above 
+     * <code>100</code> causes the deployment of the resource adapter to 
+     * fail. If the sum of the effective 
+     * quotas of the resource adapters sharing a thread pool exceeds 100, 
+     * the application server logs a warning and scales the quotas down 
+     * proportionally. This element is ignored unless
+     * <code>sharedWorkExecution</code> is true.
+     * @return the share, in percent, of the threads of a shared thread pool
+     * @since 3.0
+     */
+    int sharedWorkExecutionQuota() default -1;
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi;
+
+import java.util.Iterator;
+import jakarta.resource.ResourceException;
+
+/**
+ * This interface may be optionally implemented by a
+ * <code>ManagedConnectionFactory</code> instance that supports the
+ * ability to validate <code>ManagedConnection</code> objects incrementally,
+ * within a budget set by the application server.
+ *
+ * <p>Unlike <code>ValidatingManagedConnectionFactory.getInvalidConnections</code>,
+ * which validates a complete <code>Set</code> of connections before it
+ * returns, this interface reports the outcome for each connection through
+ * a <code>ConnectionValidationListener</code> and stops once its budget is
+ * used up. This allows the application server to perform background
+ * validation of a large connection pool in bounded steps, without holding
+ * its pool lock for a complete sweep.
+ *
+ * <p>A resource adapter may validate several connections concurrently.
+ * Since a <code>ManagedConnection</code> is not required to be thread-safe,
+ * the application server must not allocate a connection returned by the
+ * iterator's <code>next</code> method, or use it in any other way, until
+ * the <code>connectionValidated</code> notification for that connection
+ * has been delivered, or until <code>validateConnections</code> has
+ * returned or thrown an exception, whichever comes first.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.ValidatingManagedConnectionFactory
+ * @see jakarta.resource.spi.ConnectionValidationListener
+ */
+public interface IncrementalValidatingManagedConnectionFactory {
+
+    /**
+     * This method validates <code>ManagedConnection</code> objects taken
+     * from the specified iterator, until the iterator is exhausted or the
+     * specified budget is used up, whichever comes first.
+     *
+     * <p>The resource adapter calls
+     * <code>ConnectionValidationListener.connectionValidated</code> for
+     * each <code>ManagedConnection</code> it has taken from the iterator.
+     * All notifications have been delivered, and no validation is in
+     * progress, when this method returns or throws an exception.
+     *
+     * <p>The resource adapter does not take further connections from the
+     * iterator once <code>timeout</code> has elapsed. A validation that
+     * does not complete within <code>connectionTimeout</code> is abandoned:
+     * the resource adapter terminates the validation, if necessary by 
+     * closing the physical connection so that the pending probe fails, 
+     * before it reports the connection as invalid. An abandoned validation
+     * is therefore no longer in progress once the connection has been
+     * reported, and the application server destroys the connection. If
+     * both values are
+     * greater than zero, this method therefore returns within
+     * <code>timeout</code> plus <code>connectionTimeout</code>
+     * milliseconds, regardless of the number of validations performed
+     * concurrently.
+     *
+     * <p>If this method throws a <code>ResourceException</code>, the
+     * listener has been notified for exactly those connections whose
+     * validation completed before the failure. The other connections taken
+     * from the iterator have not been validated, and the application
+     * server should treat them as it treats connections that were not
+     * part of the sweep.
+     *
+     * @param connections an iterator over the <code>ManagedConnection</code>
+     * objects that need to be validated. The iterator is used by a single
+     * thread at a time.
+     *
+     * @param maxConnections the maximum number of connections to validate,
+     * or <code>-1</code> if the number of connections is not limited. A
+     * value of <code>0</code> validates no connection.
+     *
+     * @param timeout the maximum time, in milliseconds, during which the
+     * resource adapter takes connections from the iterator, or
+     * <code>-1</code> if the time is not limited. A value of <code>0</code>
+     * validates no connection.
+     *
+     * @param connectionTimeout the maximum time, in milliseconds, to wait
+     * for the validation of a single connection to complete. A value of
+     * <code>0</code> indicates that no timeout applies, as for
+     * <code>ValidatableManagedConnection.isValid</code>.
+     *
+     * @param listener the listener to be notified of the outcome of each
+     * validation.
+     *
+     * @return the number of connections that were validated.
+     *
+     * @throws ResourceException generic exception.
+     */
+    int validateConnections(Iterator<ManagedConnection> connections,
+            int maxConnections, long timeout, long connectionTimeout,
+            ConnectionValidationListener listener) throws ResourceException;
+}
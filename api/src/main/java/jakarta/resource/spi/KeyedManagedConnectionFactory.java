@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi;
+
+import javax.security.auth.Subject;
+import jakarta.resource.ResourceException;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>ManagedConnectionFactory</code> implementation. An implementation
+ * of this interface publishes a match key for each connection request,
+ * which allows the application server to keep its idle
+ * <code>ManagedConnection</code> objects indexed by key and to match a
+ * connection request without a scan of the candidate connection set.
+ *
+ * <p>A match key is derived from the security information (passed as
+ * <code>Subject</code>) and the <code>ConnectionRequestInfo</code> of a
+ * connection request. Two connection requests that produce equal match
+ * keys must be acceptable to the same <code>ManagedConnection</code>
+ * instances. A <code>ManagedConnection</code> that was created by, or
+ * matched for, a connection request with a given match key may
+ * therefore be used by the application server for any later connection
+ * request with an equal match key, without a call to
+ * <code>ManagedConnectionFactory.matchManagedConnections</code>.
+ *
+ * <p>The application server falls back to
+ * <code>ManagedConnectionFactory.matchManagedConnections</code> when the
+ * <code>ManagedConnectionFactory</code> does not implement this interface,
+ * when no idle <code>ManagedConnection</code> is available for a match key,
+ * or when <code>getMatchKey</code> returns <code>null</code>.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.ManagedConnectionFactory
+ */
+public interface KeyedManagedConnectionFactory {
+
+    /**
+     * This method returns the match key for a connection request.
+     *
+     * <p>The returned object must be immutable and must implement
+     * <code>equals</code> and <code>hashCode</code> consistently, so that
+     * the application server can use it as a key in a hash based index.
+     * The match key must remain stable for the lifetime of this
+     * <code>ManagedConnectionFactory</code> instance.
+     *
+     * @param subject caller's security information
+     *
+     * @param cxRequestInfo additional resource adapter specific connection
+     * request information
+     *
+     * @return a match key for the connection request, or <code>null</code>
+     * if the connection request must be matched using
+     * <code>ManagedConnectionFactory.matchManagedConnections</code>.
+     *
+     * @throws ResourceException generic exception.
+     *
+     * @throws ResourceAdapterInternalException resource adapter related
+     * error condition.
+     */
+    Object getMatchKey(Subject subject, ConnectionRequestInfo cxRequestInfo)
+	throws ResourceException;
+}
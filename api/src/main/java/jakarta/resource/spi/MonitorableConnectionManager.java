@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi;
+
+import jakarta.resource.ConnectionPoolStatistics;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>ConnectionManager</code> implementation. An implementation of
+ * this interface exposes the statistics of the connection pool that backs
+ * the connection factory the <code>ConnectionManager</code> is associated
+ * with.
+ *
+ * <p>A resource adapter should use this interface to make the connection
+ * pool statistics available to application components and tooling by
+ * implementing <code>jakarta.resource.cci.MonitorableConnectionFactory</code>
+ * in its connection factory.
+ *
+ * @since 3.0
+ * @see jakarta.resource.ConnectionPoolStatistics
+ * @see jakarta.resource.cci.MonitorableConnectionFactory
+ */
+public interface MonitorableConnectionManager {
+
+    /**
+     * Returns the statistics of the connection pool. The same instance is
+     * returned on each call, and reflects the current state of the
+     * connection pool whenever one of its methods is called.
+     *
+     * @return the connection pool statistics.
+     */
+    ConnectionPoolStatistics getConnectionPoolStatistics();
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi;
+
+import jakarta.resource.ResourceException;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>ManagedConnection</code> implementation. An implementation of this
+ * interface supports a cheap check of the validity of a single physical
+ * connection.
+ *
+ * <p>This may be used by the application server to test a
+ * <code>ManagedConnection</code> right before it is handed out from its
+ * connection pool, without the cost of passing a <code>Set</code> to
+ * <code>ValidatingManagedConnectionFactory.getInvalidConnections</code>.
+ * A resource adapter may implement this method with a protocol level ping
+ * or with a check of the local state of the underlying socket.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.ValidatingManagedConnectionFactory
+ */
+public interface ValidatableManagedConnection {
+
+    /**
+     * This method is called by an application server in order to check
+     * whether the physical connection represented by this
+     * <code>ManagedConnection</code> instance is still valid.
+     *
+     * <p>The resource adapter may use the specified timeout to bound the
+     * time spent waiting for a response from the EIS. If the timeout
+     * expires before the check completes, the connection is considered
+     * invalid.
+     *
+     * @param timeout the maximum time, in milliseconds, to wait for the
+     * check to complete. A value of <code>0</code> indicates that no
+     * timeout applies.
+     *
+     * @return <code>true</code> if the connection is valid,
+     * <code>false</code> otherwise.
+     *
+     * @throws ResourceException generic exception if the check could not
+     * be performed.
+     *
+     * @throws IllegalStateException if the <code>ManagedConnection</code>
+     * has already been destroyed.
+     */
+    boolean isValid(long timeout) throws ResourceException;
+}
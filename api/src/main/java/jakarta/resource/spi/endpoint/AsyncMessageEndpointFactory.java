@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.endpoint;
+
+import java.util.concurrent.CompletionStage;
+import javax.transaction.xa.XAResource;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>MessageEndpointFactory</code> implementation. An implementation of
+ * this interface supports the creation of message endpoints without
+ * blocking the calling thread while no message endpoint instance is
+ * available.
+ *
+ * <p>A resource adapter based on non-blocking I/O may use this interface to
+ * keep its event loop threads free and to resume message delivery when the
+ * returned <code>CompletionStage</code> completes.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.endpoint.MessageEndpointFactory
+ */
+public interface AsyncMessageEndpointFactory {
+
+    /**
+     * This is used to create a message endpoint without blocking the
+     * calling thread. The message endpoint is expected to implement the
+     * correct message listener type.
+     *
+     * <p>If the <code>CompletableFuture</code> obtained through
+     * <code>CompletionStage.toCompletableFuture()</code> is cancelled before
+     * it completes, the application server does not hand out a message
+     * endpoint for this request. A message endpoint that has already been
+     * created for the request is released by the application server, as 
+     * if <code>MessageEndpoint.release</code> had been called.
+     *
+     * @param xaResource an optional <code>XAResource</code>
+     * instance used to get transaction notifications when the message delivery
+     * is transacted.
+     *
+     * @param timeout an optional value used to specify the time duration
+     * (in milliseconds) within which the message endpoint needs to be
+     * created by the <code>MessageEndpointFactory</code>. Otherwise, the
+     * returned <code>CompletionStage</code> completes exceptionally with an
+     * <code>UnavailableException</code>. Note, this does not offer
+     * real-time guarantees.
+     *
+     * @return a <code>CompletionStage</code> that is completed with a message
+     * endpoint instance, or completed exceptionally with an
+     * <code>UnavailableException</code> to indicate a transient failure in
+     * creating a message endpoint.
+     */
+    CompletionStage<MessageEndpoint> createEndpointAsync(XAResource xaResource,
+            long timeout);
+}
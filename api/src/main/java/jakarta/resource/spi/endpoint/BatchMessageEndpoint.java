@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.endpoint;
+
+import jakarta.resource.ResourceException;
+import jakarta.resource.spi.IllegalStateException;
+import jakarta.resource.spi.UnavailableException;
+import jakarta.resource.spi.ApplicationServerInternalException;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>MessageEndpoint</code> implementation. An implementation of this
+ * interface supports the delivery of a batch of messages in-between a
+ * single pair of <code>beforeDelivery</code> and
+ * <code>afterDelivery</code> method calls.
+ *
+ * <p>All message deliveries of a batch are part of the same transaction,
+ * if the delivery is transacted, so that the transaction is completed once
+ * per batch during the <code>afterDelivery</code> call. The message
+ * endpoint class may implement a batch message listener interface, such as
+ * <code>jakarta.resource.cci.BatchMessageListener</code>, to receive the
+ * batch in a single message delivery method call.
+ *
+ * <p>A batch is delivered atomically. If the delivery is transacted and 
+ * the transaction is rolled back, none of the messages of the batch is
+ * considered delivered. Whether or not the delivery is transacted, the 
+ * resource adapter must not acknowledge any message of the batch to the
+ * EIS before the <code>afterDelivery</code> call for the batch has 
+ * returned normally. If <code>afterDelivery</code> throws an exception, 
+ * the resource adapter treats all messages of the batch as not delivered.
+ *
+ * <p>A message delivery that exceeds the batch size, or that is made to a
+ * method other than the one passed to <code>beforeBatchDelivery</code>, 
+ * is rejected by the proxy endpoint instance with a 
+ * <code>java.lang.IllegalStateException</code>, without invoking the 
+ * message endpoint. The rejection does not affect the messages of the 
+ * batch that have already been delivered.
+ *
+ * <p>If a message delivery of the batch throws an exception, including a
+ * system exception that causes the application server to discard the 
+ * message endpoint instance, the batch has failed. The proxy endpoint 
+ * instance rejects the remaining deliveries of the batch with a 
+ * <code>java.lang.IllegalStateException</code>, without invoking the 
+ * message endpoint. The resource adapter must still call 
+ * <code>afterDelivery</code> to complete the delivery cycle. That call 
+ * rolls back the transaction, if the delivery is transacted, and throws 
+ * a <code>ResourceException</code> to report the failure. The resource 
+ * adapter treats all messages of the batch as not delivered.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.endpoint.MessageEndpoint
+ */
+public interface BatchMessageEndpoint {
+
+    /**
+     * This is called by a resource adapter before a batch of messages is
+     * delivered. It has the same effect as
+     * <code>MessageEndpoint.beforeDelivery</code>, except that up to
+     * <code>batchSize</code> message deliveries are allowed in-between this
+     * call and the corresponding <code>afterDelivery</code> call.
+     *
+     * @param method description of a target method. This information about
+     * the intended target method allows an application server to decide
+     * whether to start a transaction during this method call, depending
+     * on the transaction preferences of the target method. All message
+     * deliveries of the batch must be made to this method.
+     *
+     * @param batchSize the maximum number of message deliveries in-between
+     * this call and the corresponding <code>afterDelivery</code> call. Must
+     * be greater than zero.
+     *
+     * @throws NoSuchMethodException indicates that the specified method
+     * does not exist on the target endpoint.
+     *
+     * @throws ResourceException generic exception. This is also thrown, 
+     * without starting a transaction or a delivery cycle, if 
+     * <code>batchSize</code> is not greater than zero.
+     *
+     * @throws ApplicationServerInternalException indicates an error
+     * condition in the application server.
+     *
+     * @throws IllegalStateException indicates that the endpoint is in an
+     * illegal state for the method invocation. For example, this occurs when
+     * <code>beforeBatchDelivery</code> and <code>afterDelivery</code>
+     * method calls are not paired.
+     *
+     * @throws UnavailableException indicates that the endpoint is not
+     * available.
+     */
+    void beforeBatchDelivery(java.lang.reflect.Method method, int batchSize)
+	throws NoSuchMethodException, ResourceException;
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.endpoint;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+/**
+ * This models a message delivery target method that has been resolved by
+ * the application server for a message endpoint deployment. This is
+ * implemented by an application server.
+ *
+ * <p>A resource adapter obtains a <code>DeliveryDescriptor</code> once per
+ * target method, typically during <code>ResourceAdapter.endpointActivation</code>,
+ * through <code>DescriptorMessageEndpointFactory.getDeliveryDescriptor</code>,
+ * and reuses it for every message delivery. This avoids a reflective
+ * lookup of the target method and a call to
+ * <code>MessageEndpointFactory.isDeliveryTransacted</code> for each
+ * message.
+ *
+ * <p>A <code>DeliveryDescriptor</code> is immutable and remains valid for
+ * the lifetime of the endpoint activation it was obtained for.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.endpoint.DescriptorMessageEndpointFactory
+ * @see jakarta.resource.spi.endpoint.DescriptorMessageEndpoint
+ */
+public interface DeliveryDescriptor {
+
+    /**
+     * Returns the target method described by this descriptor.
+     *
+     * @return the target method on the message listener interface.
+     */
+    Method getMethod();
+
+    /**
+     * Returns a method handle for the target method. The method handle is a
+     * plain virtual method handle: invoking it is equivalent to calling the
+     * target method on the message endpoint proxy passed as the first 
+     * argument, and the message is delivered through that proxy, including
+     * the services the application server provides for the call. The type
+     * of the method handle is the type of the target method, with
+     * <code>MessageEndpoint</code> inserted as the first parameter. The 
+     * first argument must be a message endpoint created by the 
+     * <code>MessageEndpointFactory</code> this descriptor was obtained from.
+     *
+     * @return a method handle for the target method.
+     * @see jakarta.resource.spi.endpoint.InvokerMessageEndpointFactory
+     */
+    MethodHandle getMethodHandle();
+
+    /**
+     * Returns whether message deliveries to the target method are
+     * transacted. This is the value that
+     * <code>MessageEndpointFactory.isDeliveryTransacted</code> returns for
+     * the target method.
+     *
+     * @return true, if message endpoint requires transacted message delivery.
+     */
+    boolean isDeliveryTransacted();
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.endpoint;
+
+import jakarta.resource.ResourceException;
+import jakarta.resource.spi.IllegalStateException;
+import jakarta.resource.spi.UnavailableException;
+import jakarta.resource.spi.ApplicationServerInternalException;
+
+/**
+ * This is a mix-in interface that is implemented by a
+ * <code>MessageEndpoint</code> implementation created by a
+ * <code>DescriptorMessageEndpointFactory</code>. It allows a resource
+ * adapter to bracket a message delivery using a pre-resolved
+ * <code>DeliveryDescriptor</code> instead of a
+ * <code>java.lang.reflect.Method</code>.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.endpoint.DeliveryDescriptor
+ */
+public interface DescriptorMessageEndpoint {
+
+    /**
+     * This is called by a resource adapter before a message is delivered.
+     * It has the same effect as <code>MessageEndpoint.beforeDelivery</code>
+     * called with the target method described by the specified descriptor.
+     * The corresponding <code>MessageEndpoint.afterDelivery</code> call
+     * completes the delivery.
+     *
+     * @param descriptor the <code>DeliveryDescriptor</code> of the target
+     * method, obtained from the <code>MessageEndpointFactory</code> that
+     * created this message endpoint.
+     *
+     * @throws ResourceException generic exception.
+     *
+     * @throws ApplicationServerInternalException indicates an error
+     * condition in the application server.
+     *
+     * @throws IllegalStateException indicates that the endpoint is in an
+     * illegal state for the method invocation, or that the descriptor was
+     * not obtained from the <code>MessageEndpointFactory</code> that created
+     * this message endpoint.
+     *
+     * @throws UnavailableException indicates that the endpoint is not
+     * available.
+     */
+    void beforeDelivery(DeliveryDescriptor descriptor)
+	throws ResourceException;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.endpoint;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>MessageEndpointFactory</code> implementation. An implementation of
+ * this interface provides pre-resolved <code>DeliveryDescriptor</code>
+ * instances for the target methods of the message endpoint deployment.
+ *
+ * <p>Message endpoints created by a factory that implements this interface
+ * must implement the <code>DescriptorMessageEndpoint</code> interface.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.endpoint.DeliveryDescriptor
+ */
+public interface DescriptorMessageEndpointFactory {
+
+    /**
+     * Returns the <code>DeliveryDescriptor</code> for a target method on a
+     * message listener interface that is implemented by a message endpoint
+     * or a target method in the <code>Class</code> returned by the
+     * <code>getEndpointClass</code> method.
+     *
+     * @param method description of a target method.
+     *
+     * @return the <code>DeliveryDescriptor</code> for the target method.
+     *
+     * @throws NoSuchMethodException indicates that the specified method
+     * does not exist on the target endpoint.
+     */
+    DeliveryDescriptor getDeliveryDescriptor(java.lang.reflect.Method method)
+	throws NoSuchMethodException;
+}
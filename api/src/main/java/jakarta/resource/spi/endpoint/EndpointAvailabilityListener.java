@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.endpoint;
+
+import java.util.EventListener;
+
+/**
+ * This models a listener which would be notified by a
+ * <code>PooledMessageEndpointFactory</code> when a message endpoint
+ * instance becomes available.
+ *
+ * The listener instance must not make any thread assumptions and must be
+ * thread-safe ie., a notification could occur from any arbitrary thread.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.endpoint.PooledMessageEndpointFactory
+ */
+public interface EndpointAvailabilityListener extends EventListener {
+
+    /**
+     * Invoked when at least one message endpoint instance is available.
+     * This is not a reservation; the instance may be obtained by another
+     * caller of <code>createEndpoint</code> first.
+     *
+     * @param factory the <code>MessageEndpointFactory</code> on which the
+     * message endpoint instance is available.
+     */
+    void endpointAvailable(MessageEndpointFactory factory);
+}
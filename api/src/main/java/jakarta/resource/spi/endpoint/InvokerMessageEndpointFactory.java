@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.endpoint;
+
+import java.lang.invoke.MethodHandle;
+import jakarta.resource.ResourceException;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>MessageEndpointFactory</code> implementation. An implementation of
+ * this interface provides pre-bound invokers that deliver messages to a 
+ * message endpoint without dispatching through the message endpoint 
+ * proxy, unlike the method handle returned by 
+ * <code>DeliveryDescriptor.getMethodHandle</code>. Both method handles 
+ * have the same type, with <code>MessageEndpoint</code> as the first 
+ * parameter, so that a resource adapter can use either of them.
+ *
+ * <p>An application server may build an invoker from method handles or
+ * from a generated class. Since the invoker for a target method does not
+ * change during the endpoint activation, a resource adapter may keep it
+ * in a final field, which allows the delivery path to be inlined.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.endpoint.DeliveryDescriptor#getMethodHandle()
+ */
+public interface InvokerMessageEndpointFactory
+        extends DescriptorMessageEndpointFactory {
+
+    /**
+     * Returns an invoker for the target method described by the specified
+     * descriptor.
+     *
+     * <p>The type of the returned method handle is the type of the target
+     * method, with <code>MessageEndpoint</code> inserted as the first
+     * parameter. Invoking it with a message endpoint created by this
+     * <code>MessageEndpointFactory</code> as the first argument is
+     * equivalent to calling the target method on that message endpoint,
+     * including the services the application server provides for the
+     * call, and throws the same exceptions.
+     *
+     * @param descriptor the <code>DeliveryDescriptor</code> of the target
+     * method, obtained from this <code>MessageEndpointFactory</code>.
+     *
+     * @return a method handle that delivers a message to a message
+     * endpoint.
+     *
+     * @throws ResourceException generic exception.
+     *
+     * @throws jakarta.resource.spi.IllegalStateException indicates that the
+     * descriptor was not obtained from this
+     * <code>MessageEndpointFactory</code>.
+     */
+    MethodHandle getInvoker(DeliveryDescriptor descriptor)
+	throws ResourceException;
+}
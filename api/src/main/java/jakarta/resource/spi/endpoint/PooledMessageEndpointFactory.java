@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.endpoint;
+
+/**
+ * This is a mix-in interface that may be optionally implemented by a
+ * <code>MessageEndpointFactory</code> implementation. An implementation of
+ * this interface exposes the size of the pool of message endpoint
+ * instances that backs the message endpoint deployment.
+ *
+ * <p>A resource adapter may use this interface to size the number of
+ * threads or sessions it uses to receive messages for the endpoint
+ * activation to the number of message endpoint instances, and to wait for
+ * a message endpoint instance to be released instead of retrying
+ * <code>createEndpoint</code> after an <code>UnavailableException</code>.
+ *
+ * <p>A resource adapter may cancel a registration that has not been 
+ * notified through <code>removeEndpointAvailabilityListener</code>. When 
+ * the message endpoint is deactivated, the application server drops all
+ * registrations that have not been notified, without notifying them.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.endpoint.MessageEndpointFactory
+ */
+public interface PooledMessageEndpointFactory {
+
+    /**
+     * Returns the maximum number of message endpoint instances that may be
+     * in use at the same time for this message endpoint deployment.
+     *
+     * @return the maximum number of message endpoint instances, or
+     * <code>Integer.MAX_VALUE</code> if the number is not bounded.
+     */
+    int getMaxEndpoints();
+
+    /**
+     * Returns the number of message endpoint instances that
+     * <code>createEndpoint</code> can currently provide without waiting.
+     * The returned value is an estimate and is not a reservation.
+     *
+     * @return the number of available message endpoint instances, or
+     * <code>Integer.MAX_VALUE</code> if the number is not bounded.
+     */
+    int getAvailableEndpoints();
+
+    /**
+     * Registers a listener to be notified once, when a message endpoint
+     * instance is available. If an instance is available when this method
+     * is called, the listener may be notified before this method returns.
+     * After the notification, the listener is no longer registered.
+     *
+     * @param listener the listener to be notified.
+     */
+    void notifyWhenEndpointAvailable(EndpointAvailabilityListener listener);
+
+    /**
+     * Cancels the registrations of the specified listener that have not
+     * been notified yet. The listener is not notified after this method
+     * returns. Calling this method for a listener that is not registered
+     * has no effect.
+     *
+     * @param listener the listener whose registrations are cancelled.
+     */
+    void removeEndpointAvailabilityListener(
+            EndpointAvailabilityListener listener);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.work;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * This interface models a <code>WorkManager</code> that supports tracking
+ * the completion of a <code>Work</code> instance through a
+ * <code>CompletionStage</code>, instead of through a
+ * <code>WorkListener</code>.
+ *
+ * <p>
+ * The <code>CompletionStage</code> returned by <code>submitWork</code>
+ * completes normally when the execution of the <code>Work</code> instance
+ * has completed without an exception. It completes exceptionally with a
+ * <code>WorkRejectedException</code> if the <code>Work</code> instance is
+ * rejected, and with a <code>WorkCompletedException</code> if the
+ * <code>Work</code> instance completes execution with an exception.
+ * The <code>CompletionStage</code> is completed only after the execution
+ * context of the <code>Work</code> instance, such as an imported 
+ * transaction or an established security context, has been torn down. 
+ * Dependent stages are therefore never run within the execution context
+ * of the <code>Work</code> instance.
+ *
+ * <p>
+ * Cancelling the <code>CompletableFuture</code> obtained through
+ * <code>CompletionStage.toCompletableFuture()</code> requests the
+ * <code>WorkManager</code> to stop processing the <code>Work</code>
+ * instance. If execution has not started yet, the <code>Work</code>
+ * instance is not executed. If execution has started, the
+ * <code>WorkManager</code> calls <code>Work.release()</code> on a separate
+ * thread.
+ *
+ * <p>
+ * A <code>WorkManager</code> implementation that supports this facility
+ * must implement the <code>AsyncWorkManager</code> interface.
+ *
+ * @since 3.0
+ */
+public interface AsyncWorkManager extends WorkManager {
+
+    /**
+     * Accepts a <code>Work</code> instance for processing. This call
+     * does not block and returns immediately once a <code>Work</code>
+     * instance has been accepted for processing. There is no guarantee
+     * on when the submitted <code>Work</code> instance would start
+     * execution ie., there is no time constraint to start execution.
+     * (that is, startTimeout=INDEFINITE).
+     *
+     * @param work The unit of work to be done.
+     * Could be long or short-lived.
+     *
+     * @return a <code>CompletionStage</code> that completes when the
+     * execution of the <code>Work</code> instance completes and its
+     * execution context has been torn down.
+     *
+     * @throws WorkRejectedException indicates that a
+     * <code>Work</code> instance has been rejected from further processing
+     * during submittal. This can occur due to internal factors.
+     */
+    CompletionStage<Void> submitWork(Work work) // startTimeout = INDEFINITE
+	throws WorkException;
+
+    /**
+     * Accepts a <code>Work</code> instance for processing. This call
+     * does not block and returns immediately once a <code>Work</code>
+     * instance has been accepted for processing.
+     *
+     * @param work The unit of work to be done.
+     * Could be long or short-lived.
+     *
+     * @param startTimeout a time duration (in milliseconds)
+     * within which the execution of the <code>Work</code> instance must
+     * start. Otherwise, the returned <code>CompletionStage</code> completes
+     * exceptionally with a <code>WorkRejectedException</code> set to an
+     * appropriate error code (<code>WorkRejectedException.TIMED_OUT</code>).
+     * Note, this does not offer real-time guarantees.
+     *
+     * @param execContext an object containing the execution
+     * context with which the submitted <code>Work</code> instance must
+     * be executed.
+     *
+     * @return a <code>CompletionStage</code> that completes when the
+     * execution of the <code>Work</code> instance completes and its
+     * execution context has been torn down.
+     *
+     * @throws WorkRejectedException indicates that a
+     * <code>Work</code> instance has been rejected from further processing
+     * during submittal. This can occur due to internal factors.
+     */
+    CompletionStage<Void> submitWork(Work work, long startTimeout,
+            ExecutionContext execContext)
+	throws WorkException;
+}
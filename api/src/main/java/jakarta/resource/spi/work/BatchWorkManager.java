@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.work;
+
+import java.util.Collection;
+
+/**
+ * This interface models a <code>WorkManager</code> that supports the
+ * submission of a batch of <code>Work</code> instances in a single call.
+ *
+ * <p>
+ * A resource adapter that receives a batch of messages from an EIS may use
+ * this interface to dispatch one <code>Work</code> instance per message at
+ * the cost of a single submission. The <code>Work</code> instances in a
+ * batch are accepted or rejected together; once accepted, each
+ * <code>Work</code> instance is executed independently of the others, in
+ * no particular order.
+ *
+ * <p>
+ * A <code>WorkManager</code> implementation that supports batch submission
+ * must implement the <code>BatchWorkManager</code> interface.
+ *
+ * @since 3.0
+ */
+public interface BatchWorkManager extends WorkManager {
+
+    /**
+     * Accepts a batch of <code>Work</code> instances for processing. This
+     * call does not block and returns immediately once the batch has been
+     * accepted for processing. There is no guarantee on when the submitted
+     * <code>Work</code> instances would start execution ie., there is no
+     * time constraint to start execution. (that is,
+     * startTimeout=INDEFINITE).
+     *
+     * @param work The units of work to be done.
+     * Each could be long or short-lived.
+     *
+     * @throws WorkRejectedException indicates that the batch has been
+     * rejected from further processing, in which case none of its
+     * <code>Work</code> instances has been accepted. This can occur due to
+     * internal factors.
+     */
+    void scheduleWork(Collection<? extends Work> work) // startTimeout = INDEFINITE
+	throws WorkException;
+
+    /**
+     * Accepts a batch of <code>Work</code> instances for processing. This
+     * call does not block and returns immediately once the batch has been
+     * accepted for processing.
+     *
+     * @param work The units of work to be done.
+     * Each could be long or short-lived.
+     *
+     * @param startTimeout a time duration (in milliseconds)
+     * within which the execution of each <code>Work</code> instance must
+     * start. Otherwise, that <code>Work</code> instance is rejected with a
+     * <code>WorkRejectedException</code> set to an appropriate error code
+     * (<code>WorkRejectedException.TIMED_OUT</code>), which is reported
+     * through the <code>workListener</code>. Note, this does not offer
+     * real-time guarantees.
+     *
+     * @param execContext an object containing the execution
+     * context with which each of the submitted <code>Work</code> instances
+     * must be executed.
+     *
+     * @param workListener an object which would be notified
+     * when the various <code>Work</code> processing events (work accepted,
+     * work rejected, work started, work completed) occur for each of the
+     * submitted <code>Work</code> instances.
+     *
+     * @throws WorkRejectedException indicates that the batch has been
+     * rejected from further processing, in which case none of its
+     * <code>Work</code> instances has been accepted. This can occur due to
+     * internal factors.
+     */
+    void scheduleWork(Collection<? extends Work> work, long startTimeout,
+            ExecutionContext execContext, WorkListener workListener)
+	throws WorkException;
+}
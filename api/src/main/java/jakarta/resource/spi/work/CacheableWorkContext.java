@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.work;
+
+/**
+ * A <code>WorkContext</code> that exposes a key identifying the execution
+ * context it establishes, so that the <code>WorkManager</code> may cache
+ * the outcome of setting up that context and reuse it for subsequent
+ * <code>Work</code> instances.
+ *
+ * <p>
+ * A resource adapter may implement this interface in its subclass of
+ * <code>SecurityContext</code>. A <code>WorkManager</code> only caches
+ * security contexts; it ignores this interface on any other
+ * <code>WorkContext</code>, in particular on a
+ * <code>TransactionContext</code>, whose context is set up for each
+ * <code>Work</code> instance. When consecutive <code>Work</code>
+ * instances carry contexts with equal keys, a <code>WorkManager</code>
+ * that supports this interface may reuse
+ * the previously established context, for example the security
+ * <code>Subject</code> established through
+ * <code>SecurityContext.setupSecurityContext</code>, instead of setting up
+ * the context again. Support for this interface is checked with
+ * <code>BootstrapContext.isContextSupported</code> on the standard
+ * <code>WorkContext</code> type, as usual; a <code>WorkManager</code> that
+ * does not support this interface sets up the context for each
+ * <code>Work</code> instance.
+ *
+ * <p>
+ * When a cached context is reused, the
+ * <code>WorkContextLifecycleListener</code> notifications, if any, are
+ * still delivered for each <code>Work</code> instance. The
+ * <code>WorkManager</code> decides how long a cached context remains
+ * valid, but must discard its cached contexts, including the established
+ * <code>Subject</code> instances, when the security configuration that
+ * applied to their setup changes, for example when the security realm or
+ * the principal and group mapping of the resource adapter is
+ * reconfigured, or when the credentials of an identity are changed or
+ * revoked.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.work.WorkContextProvider
+ */
+public interface CacheableWorkContext extends WorkContext {
+
+	/**
+	 * Get the key identifying the execution context established by this
+	 * <code>WorkContext</code>.
+	 * <p>
+	 * Two <code>WorkContext</code> instances of the same class and from the
+	 * same resource adapter instance that return equal keys must establish
+	 * identical execution contexts. In particular, the key must reflect all
+	 * of the identities and credentials the context would supply during
+	 * its setup. The returned object must be immutable and must implement
+	 * <code>equals</code> and <code>hashCode</code> consistently.
+	 * </p>
+	 *
+	 * @return the key of the execution context, or <code>null</code> if the
+	 * execution context established by this <code>WorkContext</code> must
+	 * not be cached.
+	 */
+	Object getContextKey();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.work;
+
+/**
+ * This interface models a <code>WorkManager</code> that exposes its
+ * current capacity to accept <code>Work</code> instances.
+ *
+ * <p>
+ * An inbound resource adapter may use this interface to pace the rate at
+ * which it receives messages from an EIS, so that it does not fetch
+ * messages that the <code>WorkManager</code> would then reject with a
+ * <code>WorkRejectedException</code>. For example, a resource adapter may
+ * receive at most <code>getAvailableCapacity()</code> messages, and when
+ * no capacity is available, register a <code>WorkCapacityListener</code>
+ * and resume receiving when it is notified.
+ *
+ * <p>
+ * A resource adapter may cancel a registration that has not been notified
+ * through <code>removeCapacityListener</code>. When the resource adapter
+ * is stopped, the <code>WorkManager</code> drops all registrations of
+ * the resource adapter that have not been notified, without notifying
+ * them.
+ *
+ * <p>
+ * A <code>WorkManager</code> implementation that supports this facility
+ * must implement the <code>CapacityAwareWorkManager</code> interface.
+ *
+ * @since 3.0
+ */
+public interface CapacityAwareWorkManager extends WorkManager {
+
+    /**
+     * Returns the number of <code>Work</code> instances that this
+     * <code>WorkManager</code> is currently able to accept without
+     * rejecting them. The returned value is an estimate and is not a
+     * reservation.
+     *
+     * @return the number of <code>Work</code> instances that can currently
+     * be accepted, or <code>Integer.MAX_VALUE</code> if the capacity of
+     * this <code>WorkManager</code> is not bounded.
+     */
+    int getAvailableCapacity();
+
+    /**
+     * Registers a listener to be notified once, when this
+     * <code>WorkManager</code> is able to accept at least the specified
+     * number of <code>Work</code> instances. If that capacity is available
+     * when this method is called, the listener may be notified before this
+     * method returns. After the notification, the listener is no longer
+     * registered.
+     *
+     * @param capacity the number of <code>Work</code> instances the
+     * resource adapter intends to submit. Must be greater than zero.
+     *
+     * @param listener the listener to be notified.
+     *
+     * @throws WorkRejectedException indicates that the listener could not
+     * be registered, for example because the requested capacity exceeds
+     * the total capacity of this <code>WorkManager</code>.
+     */
+    void notifyWhenCapacityAvailable(int capacity,
+            WorkCapacityListener listener) throws WorkException;
+
+    /**
+     * Cancels the registrations of the specified listener that have not
+     * been notified yet. The listener is not notified after this method
+     * returns. Calling this method for a listener that is not registered
+     * has no effect.
+     *
+     * @param listener the listener whose registrations are cancelled.
+     */
+    void removeCapacityListener(WorkCapacityListener listener);
+}
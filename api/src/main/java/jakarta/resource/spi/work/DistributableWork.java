@@ -1,5 +1,6 @@
 /*
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,7 +24,35 @@ import java.io.Serializable;
  * <code>DistributableWorkManager</code> for execution in a remote
  * <code>DistributableWorkManager</code>
  * 
+ * <p>
+ * A <code>DistributableWork</code> instance, including the
+ * <code>WorkContext</code> instances it provides as a
+ * <code>WorkContextProvider</code>, must be serializable with standard
+ * Java serialization, using only classes that are available from the
+ * resource adapter's class loader. It must not have any reference to
+ * local resource-adapter state; such state must be obtained through the
+ * <code>ResourceAdapterAssociation</code> mechanism on the node where the
+ * instance is executed. The <code>WorkListener</code> passed at submission
+ * is not transmitted and remains with the submitting
+ * <code>WorkManager</code>. The transaction context of the submission, 
+ * whether provided through the <code>ExecutionContext</code> or through a
+ * <code>TransactionContext</code>, is transmitted with the instance, as
+ * described in <code>DistributableWorkManager</code>.
+ * 
+ * <p>
+ * Results of the execution are returned as the state of the instance: when
+ * a <code>DistributableWork</code> instance has been executed remotely, the
+ * <code>Work</code> returned by <code>WorkEvent.getWork()</code> in the
+ * work completed notification is a deserialized copy of the instance as it
+ * was after execution. The submitted instance itself is not updated. A
+ * resource adapter that needs results from the state of the instance must
+ * therefore pass a <code>WorkListener</code> at submission; when no
+ * <code>WorkListener</code> is passed, for example with 
+ * <code>doWork(Work)</code>, only the outcome of the execution, that is a
+ * normal return or an exception, is available to the caller.
+ * 
  * @since 1.6
+ * @see jakarta.resource.spi.work.DistributableWorkManager
  */
 public interface DistributableWork extends Work, Serializable {
 
@@ -1,5 +1,6 @@
 /*
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,7 +33,46 @@ package jakarta.resource.spi.work;
  * <code>DistributableWork</code> instances must implement the
  * <code>DistributableWorkManager</code> marker interface.
  * 
+ * <p>
+ * A <code>DistributableWorkManager</code> selects the
+ * <code>WorkManager</code> instance that executes a
+ * <code>DistributableWork</code> instance. A resource adapter may indicate
+ * a preferred instance with the <code>HintsContext.NODE_HINT</code> hint.
+ * 
+ * <p>
+ * The transaction context of a submission, that is the <code>Xid</code>
+ * and the transaction timeout of the <code>ExecutionContext</code> or of
+ * the <code>TransactionContext</code> provided by the 
+ * <code>DistributableWork</code> instance, is transmitted with the 
+ * instance, and the executing <code>WorkManager</code> imports the 
+ * transaction as for a local submission, so that the instance is executed
+ * in the same transaction as if it was executed locally. A
+ * <code>DistributableWork</code> instance submitted with a transaction 
+ * context must be executed locally if the transaction cannot be imported
+ * by the selected <code>WorkManager</code> instance.
+ * 
+ * <p>
+ * When a <code>DistributableWork</code> instance is executed remotely, the
+ * submitting <code>DistributableWorkManager</code> delivers the
+ * <code>WorkListener</code> notifications and the outcome of the
+ * submission to the resource adapter as if the instance was executed
+ * locally. An exception thrown by the remote execution is propagated to
+ * the caller wrapped in a <code>WorkCompletedException</code>; if the
+ * exception cannot be serialized, it is replaced by a
+ * <code>WorkCompletedException</code> with the error code
+ * <code>WorkException.INTERNAL</code> whose message contains the class
+ * name and message of the original exception. If the selected
+ * <code>WorkManager</code> instance is unreachable before the execution of
+ * the instance has started, and no other instance is selected in its
+ * place, the instance is rejected with a 
+ * <code>WorkRejectedException</code> with the error code 
+ * <code>WorkException.INTERNAL</code>. If it becomes unreachable after the
+ * execution has started, the submission completes with a 
+ * <code>WorkCompletedException</code> with the error code 
+ * <code>WorkException.INTERNAL</code>.
+ * 
  * @since 1.6
+ * @see jakarta.resource.spi.work.DistributableWork
  */
 public interface DistributableWorkManager extends WorkManager {
 	
@@ -1,5 +1,6 @@
 /*
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -38,6 +39,109 @@ public class HintsContext implements WorkContext {
     public static final String NAME_HINT = "jakarta.resource.Name";
     public static final String LONGRUNNING_HINT = "jakarta.resource.LongRunning";
 
+    /**
+     * Hint name indicating that a {@link Work Work} instance should be
+     * executed on a virtual thread. The value of the hint must be a
+     * <code>Boolean</code>.
+     *
+     * <p>A <code>WorkManager</code> that supports this hint executes such a
+     * <code>Work</code> instance on a virtual thread instead of a thread
+     * from its shared thread pool. This applies in particular to
+     * <code>Work</code> instances submitted with the
+     * <code>LONGRUNNING_HINT</code> hint.
+     *
+     * @since 3.0
+     * @see jakarta.resource.spi.BootstrapContext#isHintSupported(String)
+     */
+    public static final String VIRTUAL_THREAD_HINT = "jakarta.resource.VirtualThread";
+
+    /**
+     * Hint name indicating the priority class of a {@link Work Work}
+     * instance. The value of the hint must be an <code>Integer</code>;
+     * <code>Work</code> instances with a higher value are started before
+     * queued <code>Work</code> instances with a lower value.
+     *
+     * @since 3.0
+     * @see jakarta.resource.spi.BootstrapContext#isHintSupported(String)
+     */
+    public static final String PRIORITY_HINT = "jakarta.resource.Priority";
+
+    /**
+     * Hint name indicating the deadline by which the execution of a
+     * {@link Work Work} instance must have started. The value of the hint
+     * must be a <code>Long</code>, specifying the deadline in milliseconds
+     * since the epoch, as returned by <code>System.currentTimeMillis()</code>.
+     *
+     * <p>A <code>WorkManager</code> that supports this hint starts queued
+     * <code>Work</code> instances in earliest-deadline-first order, and
+     * rejects a <code>Work</code> instance with a
+     * <code>RetryableWorkRejectedException</code> set to the error code
+     * <code>WorkException.DEADLINE_UNATTAINABLE</code> once its deadline
+     * can no longer be met.
+     *
+     * @since 3.0
+     * @see jakarta.resource.spi.BootstrapContext#isHintSupported(String)
+     */
+    public static final String DEADLINE_HINT = "jakarta.resource.Deadline";
+
+    /**
+     * Hint name indicating the maximum time a {@link Work Work} instance
+     * may spend queued, from its acceptance until the start of its
+     * execution. The value of the hint must be a <code>Long</code>,
+     * specifying the delay in milliseconds.
+     *
+     * <p>A <code>WorkManager</code> that supports this hint treats it as a
+     * deadline relative to the acceptance of the <code>Work</code> instance,
+     * as described for <code>DEADLINE_HINT</code>.
+     *
+     * @since 3.0
+     * @see jakarta.resource.spi.BootstrapContext#isHintSupported(String)
+     */
+    public static final String MAX_QUEUE_DELAY_HINT = "jakarta.resource.MaxQueueDelay";
+
+    /**
+     * Hint name indicating the partition key of a {@link Work Work}
+     * instance. The value of the hint may be any <code>Serializable</code>
+     * object that implements <code>equals</code> and <code>hashCode</code>.
+     *
+     * <p>A <code>WorkManager</code> that supports this hint executes
+     * <code>Work</code> instances with equal partition keys one at a time,
+     * in the order in which they were accepted, and may execute
+     * <code>Work</code> instances with different partition keys
+     * concurrently.
+     *
+     * <p>The order of a partition takes precedence over
+     * <code>PRIORITY_HINT</code>, <code>DEADLINE_HINT</code> and
+     * <code>MAX_QUEUE_DELAY_HINT</code>: these hints only determine which
+     * partition is served next, based on the <code>Work</code> instance at
+     * the head of each partition, and never reorder the <code>Work</code>
+     * instances of a partition. A <code>Work</code> instance of a 
+     * partition that is rejected, for example because its start timeout 
+     * expired or its deadline can no longer be met, or that completes with
+     * an exception, is skipped; the <code>WorkManager</code> continues with
+     * the next <code>Work</code> instance of the same partition.
+     *
+     * @since 3.0
+     * @see jakarta.resource.spi.BootstrapContext#isHintSupported(String)
+     */
+    public static final String PARTITION_KEY_HINT = "jakarta.resource.PartitionKey";
+
+    /**
+     * Hint name indicating the preferred <code>WorkManager</code> instance
+     * for the execution of a {@link DistributableWork DistributableWork}
+     * instance. The value of the hint must be a <code>String</code> naming
+     * an application server instance, as configured by the administrator.
+     *
+     * <p>A <code>DistributableWorkManager</code> that supports this hint
+     * executes the <code>Work</code> instance on the named instance if it
+     * is available, and otherwise selects an instance as if the hint was
+     * absent.
+     *
+     * @since 3.0
+     * @see jakarta.resource.spi.BootstrapContext#isHintSupported(String)
+     */
+    public static final String NODE_HINT = "jakarta.resource.Node";
+
     protected String description = "Hints Context";
     protected String name = "HintsContext";
 
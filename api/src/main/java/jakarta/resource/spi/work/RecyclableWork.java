@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.work;
+
+/**
+ * This models a <code>Work</code> instance that may be reused by the
+ * resource adapter once the <code>WorkManager</code> has finished with it.
+ *
+ * <p>
+ * A resource adapter may keep a pool of <code>RecyclableWork</code>
+ * instances, together with any buffers they hold, and return an instance
+ * to its pool when <code>recycle</code> is called instead of allocating a
+ * new <code>Work</code> instance for each submission.
+ *
+ * @since 3.0
+ */
+public interface RecyclableWork extends Work {
+
+    /**
+     * The <code>WorkManager</code> calls this method exactly once for each
+     * submission of this <code>Work</code> instance that it accepted, after
+     * it has finished all processing related to that submission. That is,
+     * after the <code>Work</code> instance has been rejected or has
+     * completed execution, after the corresponding <code>WorkListener</code>
+     * notifications have been delivered, and after the execution context
+     * of the <code>Work</code> instance has been torn down. The
+     * <code>WorkManager</code> does not hold a reference to this
+     * <code>Work</code> instance once this method has been called.
+     *
+     * <p>
+     * A <code>WorkManager</code> that does not support this interface never
+     * calls this method, in which case the instance is not reused.
+     */
+    void recycle();
+}
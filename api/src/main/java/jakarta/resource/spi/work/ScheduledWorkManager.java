@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.work;
+
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * This interface models a <code>WorkManager</code> that supports the
+ * delayed and periodic execution of <code>Work</code> instances.
+ *
+ * <p>
+ * A resource adapter may use this interface instead of a
+ * <code>java.util.Timer</code> obtained through
+ * <code>BootstrapContext.createTimer()</code> for tasks such as heartbeats
+ * and polling. Scheduled <code>Work</code> instances are executed by the
+ * <code>WorkManager</code> with the same execution context setup as other
+ * submitted <code>Work</code> instances, and the <code>WorkManager</code>
+ * may use a single scheduler shared by all resource adapters instead of a
+ * dedicated thread per timer.
+ *
+ * <p>
+ * Each execution of a scheduled <code>Work</code> instance is processed
+ * like a <code>Work</code> instance submitted through
+ * <code>scheduleWork</code>, and the specified <code>WorkListener</code>
+ * is notified of the processing events of each execution. A periodic
+ * execution does not start before the previous execution of the same
+ * <code>Work</code> instance has completed. Cancelling the returned
+ * <code>ScheduledFuture</code> prevents further executions; if
+ * <code>mayInterruptIfRunning</code> is <code>true</code> and an execution
+ * is in progress, the <code>WorkManager</code> calls
+ * <code>Work.release()</code> on a separate thread.
+ *
+ * <p>
+ * If an execution of a periodic <code>Work</code> instance is rejected,
+ * for example because the <code>WorkManager</code> has no capacity left,
+ * the <code>WorkListener</code> is notified with a 
+ * <code>WorkRejectedException</code>, that execution is skipped and the
+ * next execution is scheduled as usual. If an execution completes with an
+ * exception, no further executions take place, and the returned
+ * <code>ScheduledFuture</code> completes exceptionally: its
+ * <code>get</code> methods throw an <code>ExecutionException</code>
+ * whose cause is the <code>WorkCompletedException</code> reported to the
+ * <code>WorkListener</code>. Otherwise, the <code>ScheduledFuture</code>
+ * of a periodic <code>Work</code> instance completes only when it is
+ * cancelled.
+ *
+ * <p>
+ * Each call to <code>schedule</code>, <code>scheduleAtFixedRate</code> or
+ * <code>scheduleWithFixedDelay</code> is a single submission. If the
+ * <code>Work</code> instance is a <code>RecyclableWork</code>, the
+ * <code>WorkManager</code> calls <code>recycle</code> once, after the 
+ * last execution of that submission has been processed. That is after 
+ * the <code>ScheduledFuture</code> has been cancelled or has completed
+ * and no execution is in progress.
+ *
+ * <p>
+ * A <code>WorkManager</code> implementation that supports this facility
+ * must implement the <code>ScheduledWorkManager</code> interface.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.BootstrapContext#createTimer()
+ */
+public interface ScheduledWorkManager extends WorkManager {
+
+    /**
+     * Accepts a <code>Work</code> instance for a single execution after
+     * the specified delay. This call does not block.
+     *
+     * @param work The unit of work to be done.
+     *
+     * @param delay the time (in milliseconds) from now to delay execution.
+     *
+     * @param execContext an object containing the execution
+     * context with which the submitted <code>Work</code> instance must
+     * be executed.
+     *
+     * @param workListener an object which would be notified
+     * when the various <code>Work</code> processing events (work accepted,
+     * work rejected, work started, work completed) occur.
+     *
+     * @return a <code>ScheduledFuture</code> that can be used to cancel the
+     * execution.
+     *
+     * @throws WorkRejectedException indicates that a
+     * <code>Work</code> instance has been rejected from further processing.
+     * This can occur due to internal factors.
+     */
+    ScheduledFuture<?> schedule(Work work, long delay,
+            ExecutionContext execContext, WorkListener workListener)
+	throws WorkException;
+
+    /**
+     * Accepts a <code>Work</code> instance for periodic execution, first
+     * after the specified initial delay and subsequently with the specified
+     * period between the start of one execution and the start of the next.
+     * This call does not block.
+     *
+     * @param work The unit of work to be done.
+     *
+     * @param initialDelay the time (in milliseconds) to delay the first
+     * execution.
+     *
+     * @param period the period (in milliseconds) between successive
+     * executions. Must be greater than zero.
+     *
+     * @param execContext an object containing the execution
+     * context with which the submitted <code>Work</code> instance must
+     * be executed.
+     *
+     * @param workListener an object which would be notified
+     * when the various <code>Work</code> processing events (work accepted,
+     * work rejected, work started, work completed) occur.
+     *
+     * @return a <code>ScheduledFuture</code> that can be used to cancel the
+     * executions.
+     *
+     * @throws WorkRejectedException indicates that a
+     * <code>Work</code> instance has been rejected from further processing.
+     * This can occur due to internal factors, or because 
+     * <code>period</code> is not greater than zero.
+     */
+    ScheduledFuture<?> scheduleAtFixedRate(Work work, long initialDelay,
+            long period, ExecutionContext execContext,
+            WorkListener workListener)
+	throws WorkException;
+
+    /**
+     * Accepts a <code>Work</code> instance for periodic execution, first
+     * after the specified initial delay and subsequently with the specified
+     * delay between the completion of one execution and the start of the
+     * next. This call does not block.
+     *
+     * @param work The unit of work to be done.
+     *
+     * @param initialDelay the time (in milliseconds) to delay the first
+     * execution.
+     *
+     * @param delay the delay (in milliseconds) between the completion of
+     * one execution and the start of the next. Must be greater than zero.
+     *
+     * @param execContext an object containing the execution
+     * context with which the submitted <code>Work</code> instance must
+     * be executed.
+     *
+     * @param workListener an object which would be notified
+     * when the various <code>Work</code> processing events (work accepted,
+     * work rejected, work started, work completed) occur.
+     *
+     * @return a <code>ScheduledFuture</code> that can be used to cancel the
+     * executions.
+     *
+     * @throws WorkRejectedException indicates that a
+     * <code>Work</code> instance has been rejected from further processing.
+     * This can occur due to internal factors, or because 
+     * <code>delay</code> is not greater than zero.
+     */
+    ScheduledFuture<?> scheduleWithFixedDelay(Work work, long initialDelay,
+            long delay, ExecutionContext execContext,
+            WorkListener workListener)
+	throws WorkException;
+}
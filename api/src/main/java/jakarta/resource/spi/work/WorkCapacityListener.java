@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.work;
+
+import java.util.EventListener;
+
+/**
+ * This models a <code>WorkCapacityListener</code> instance which would be
+ * notified by a <code>CapacityAwareWorkManager</code> when it is able to
+ * accept a requested number of <code>Work</code> instances.
+ *
+ * The <code>WorkCapacityListener</code> instance must not make any thread
+ * assumptions and must be thread-safe ie., a notification could
+ * occur from any arbitrary thread.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.work.CapacityAwareWorkManager
+ */
+public interface WorkCapacityListener extends EventListener {
+
+    /**
+     * Invoked when the <code>WorkManager</code> is able to accept at least
+     * the number of <code>Work</code> instances requested when this
+     * listener was registered.
+     *
+     * @param capacity the number of <code>Work</code> instances the
+     * <code>WorkManager</code> is able to accept at the time of the
+     * notification. This is not a reservation; the capacity may be
+     * consumed by other submissions before this listener submits
+     * <code>Work</code> instances.
+     */
+    void capacityAvailable(int capacity);
+}
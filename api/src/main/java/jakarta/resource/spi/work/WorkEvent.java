@@ -1,5 +1,6 @@
 /*
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,6 +28,12 @@ import java.util.EventObject;
  */
 public class WorkEvent extends EventObject {
 
+    /**
+     * Determines if a deserialized instance of this class
+     * is compatible with this class.
+     */
+    private static final long serialVersionUID = 5258766792646657146L;
+
     /**
      * Indicates <code>Work</code> instance has been accepted.
      */
@@ -47,6 +54,13 @@ public class WorkEvent extends EventObject {
      */
     public static final int WORK_COMPLETED = 4;
 
+    /**
+     * Indicates that a timestamp is unknown.
+     *
+     * @since 3.0
+     */
+    public static final long TIME_UNKNOWN = Long.MIN_VALUE;
+
     /**
      * The event type.
      */
@@ -67,6 +81,26 @@ public class WorkEvent extends EventObject {
      */
     private long startDuration = WorkManager.UNKNOWN;
 
+    /**
+     * The time the <code>Work</code> was accepted (in nanoseconds).
+     */
+    private long acceptedTime = TIME_UNKNOWN;
+
+    /**
+     * The time the <code>Work</code> execution started (in nanoseconds).
+     */
+    private long startedTime = TIME_UNKNOWN;
+
+    /**
+     * The time the <code>Work</code> execution completed (in nanoseconds).
+     */
+    private long completedTime = TIME_UNKNOWN;
+
+    /**
+     * The identifier of the thread executing the <code>Work</code>.
+     */
+    private long threadId = WorkManager.UNKNOWN;
+
     /**
      * Constructor.
      *
@@ -136,6 +170,102 @@ public class WorkEvent extends EventObject {
      */
     public long getStartDuration() { return this.startDuration; }
 
+    /**
+     * Return the time the <code>Work</code> was accepted.
+     *
+     * @return the time the <code>Work</code> was accepted, as returned by
+     * <code>System.nanoTime()</code>, or <code>TIME_UNKNOWN</code> if the
+     * time is unknown.
+     *
+     * @since 3.0
+     */
+    public long getAcceptedTime() { return this.acceptedTime; }
+
+    /**
+     * Set the time the <code>Work</code> was accepted.
+     *
+     * @param acceptedTime the time the <code>Work</code> was accepted, as
+     * returned by <code>System.nanoTime()</code>, or 
+     * <code>TIME_UNKNOWN</code>.
+     *
+     * @since 3.0
+     */
+    public void setAcceptedTime(long acceptedTime) {
+	this.acceptedTime = acceptedTime;
+    }
+
+    /**
+     * Return the time the <code>Work</code> execution started.
+     *
+     * @return the time the <code>Work</code> execution started, as returned
+     * by <code>System.nanoTime()</code>, or <code>TIME_UNKNOWN</code> if 
+     * the execution has not started or the time is unknown.
+     *
+     * @since 3.0
+     */
+    public long getStartedTime() { return this.startedTime; }
+
+    /**
+     * Set the time the <code>Work</code> execution started.
+     *
+     * @param startedTime the time the <code>Work</code> execution started,
+     * as returned by <code>System.nanoTime()</code>, or 
+     * <code>TIME_UNKNOWN</code>.
+     *
+     * @since 3.0
+     */
+    public void setStartedTime(long startedTime) {
+	this.startedTime = startedTime;
+    }
+
+    /**
+     * Return the time the <code>Work</code> execution completed.
+     *
+     * @return the time the <code>Work</code> execution completed, as 
+     * returned by <code>System.nanoTime()</code>, or 
+     * <code>TIME_UNKNOWN</code> if the execution has not completed or the 
+     * time is unknown.
+     *
+     * @since 3.0
+     */
+    public long getCompletedTime() { return this.completedTime; }
+
+    /**
+     * Set the time the <code>Work</code> execution completed.
+     *
+     * @param completedTime the time the <code>Work</code> execution 
+     * completed, as returned by <code>System.nanoTime()</code>, or 
+     * <code>TIME_UNKNOWN</code>.
+     *
+     * @since 3.0
+     */
+    public void setCompletedTime(long completedTime) {
+	this.completedTime = completedTime;
+    }
+
+    /**
+     * Return the identifier of the thread executing the <code>Work</code>.
+     *
+     * @return the identifier of the thread, as returned by 
+     * <code>Thread.getId()</code>, executing the <code>Work</code>. It is 
+     * valid to return -1, if the execution has not started or the thread 
+     * is unknown.
+     *
+     * @since 3.0
+     */
+    public long getThreadId() { return this.threadId; }
+
+    /**
+     * Set the identifier of the thread executing the <code>Work</code>.
+     *
+     * @param threadId the identifier of the thread, as returned by 
+     * <code>Thread.getId()</code>, executing the <code>Work</code>, or -1 
+     * if unknown.
+     *
+     * @since 3.0
+     */
+    public void setThreadId(long threadId) { this.threadId = threadId; }
+
     /**
      * Return the <code>WorkException</code>. The actual 
      * <code>WorkException</code> subtype returned depends on the type of the
@@ -1,5 +1,6 @@
 /*
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,6 +25,11 @@ package jakarta.resource.spi.work;
  */
 public class WorkException extends jakarta.resource.ResourceException {
 
+    /**
+     * Determines if a deserialized instance of this class
+     * is compatible with this class.
+     */
+    private static final long serialVersionUID = 7845324676753233876L;
 
     /**
      * Indicates an internal error condition.
@@ -52,6 +58,16 @@ public class WorkException extends jakarta.resource.ResourceException {
      */
     public static final String TX_RECREATE_FAILED = "3";
 
+    /**
+     * Indicates that the deadline or the maximum queueing delay requested
+     * for a <code>Work</code> instance can no longer be met. This error code
+     * does not overlap with the error codes defined in 
+     * <code>WorkContextErrorCodes</code>.
+     *
+     * @since 3.0
+     */
+    public static final String DEADLINE_UNATTAINABLE = "5";
+
     /**
      * Constructs a new instance with null as its detail message.
      */
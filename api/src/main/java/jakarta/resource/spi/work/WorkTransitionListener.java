@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.resource.spi.work;
+
+import java.util.EventListener;
+
+/**
+ * This models a listener that is notified of <code>Work</code> processing
+ * events (work accepted, work rejected, work started, work completed)
+ * through primitive arguments, without a <code>WorkEvent</code> object
+ * being created for each event.
+ *
+ * <p>
+ * A <code>WorkListener</code> passed to a <code>WorkManager</code> may
+ * also implement this interface. A <code>WorkManager</code> that supports
+ * this interface then delivers each event by calling
+ * <code>workTransition</code> only, instead of the corresponding
+ * <code>WorkListener</code> method. A <code>WorkManager</code> that does
+ * not support this interface calls the <code>WorkListener</code> methods
+ * as usual, so an implementation must handle events delivered through
+ * either path.
+ *
+ * The <code>WorkTransitionListener</code> instance must not make any
+ * thread assumptions and must be thread-safe ie., a notification could
+ * occur from any arbitrary thread. Further, it must not make any
+ * assumptions on the ordering of notifications.
+ *
+ * @since 3.0
+ * @see jakarta.resource.spi.work.WorkListener
+ */
+public interface WorkTransitionListener extends EventListener {
+
+    /**
+     * Invoked when a <code>Work</code> processing event occurs.
+     *
+     * @param type the event type, one of <code>WorkEvent.WORK_ACCEPTED</code>,
+     * <code>WorkEvent.WORK_REJECTED</code>, <code>WorkEvent.WORK_STARTED</code>
+     * or <code>WorkEvent.WORK_COMPLETED</code>.
+     *
+     * @param work the <code>Work</code> instance on which the event occurred.
+     *
+     * @param exc a <code>WorkRejectedException</code> or a
+     * <code>WorkCompletedException</code>, if any; <code>null</code>
+     * otherwise.
+     *
+     * @param timestamp the time at which the event occurred, in
+     * nanoseconds, as returned by <code>System.nanoTime()</code>.
+     */
+    void workTransition(int type, Work work, WorkException exc,
+            long timestamp);
+}